@@ -0,0 +1,81 @@
+#!/usr/bin/env sh
+# Startup-time benchmark: measures time from `docker run` until /actuator/health/readiness
+# returns UP, with the fast-startup options on and off, using the same image.
+#
+# Usage: RUNS=5 scripts/startup-benchmark.sh
+# Appends a result row (date, commit, averages, improvement) to docs/startup-benchmark.md.
+# Needs a reachable Postgres; pass it through the usual env vars
+# (SPRING_DATASOURCE_URL, SPRING_DATASOURCE_USERNAME, SPRING_DATASOURCE_PASSWORD, GROQ_API_KEY).
+set -eu
+
+IMAGE=${IMAGE:-prepedge:fast-startup}
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+MAX_WAIT_SECONDS=${MAX_WAIT_SECONDS:-180}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+RESULTS_FILE=${RESULTS_FILE:-$ROOT/docs/startup-benchmark.md}
+
+# Milliseconds since the epoch; `date +%N` is GNU-only, so fall back to perl (macOS, BusyBox)
+now_ms() {
+    ns=$(date +%s%N 2>/dev/null || true)
+    case "$ns" in
+        ''|*[!0-9]*) perl -MTime::HiRes=time -e 'printf("%d\n", time() * 1000)' ;;
+        *) echo $((ns / 1000000)) ;;
+    esac
+}
+
+docker build -t "$IMAGE" "$ROOT"
+
+# $1 = label, remaining args = extra `docker run` options
+measure() {
+    label=$1; shift
+    total=0
+    i=1
+    while [ "$i" -le "$RUNS" ]; do
+        start=$(now_ms)
+        deadline=$((start + MAX_WAIT_SECONDS * 1000))
+        cid=$(docker run -d -p "$PORT:8080" \
+            -e SPRING_DATASOURCE_URL -e SPRING_DATASOURCE_USERNAME -e SPRING_DATASOURCE_PASSWORD -e GROQ_API_KEY \
+            "$@" "$IMAGE")
+        until curl -fs "http://localhost:$PORT/actuator/health/readiness" >/dev/null 2>&1; do
+            if [ "$(docker inspect -f '{{.State.Running}}' "$cid")" != "true" ]; then
+                echo "$label run $i: container exited before becoming ready" >&2
+                docker logs --tail 50 "$cid" >&2
+                docker rm -f "$cid" >/dev/null
+                exit 1
+            fi
+            if [ "$(now_ms)" -gt "$deadline" ]; then
+                echo "$label run $i: not ready after ${MAX_WAIT_SECONDS}s" >&2
+                docker logs --tail 50 "$cid" >&2
+                docker rm -f "$cid" >/dev/null
+                exit 1
+            fi
+            sleep 0.1
+        done
+        elapsed=$(($(now_ms) - start))
+        docker rm -f "$cid" >/dev/null
+        echo "$label run $i: ${elapsed} ms"
+        total=$((total + elapsed))
+        i=$((i + 1))
+    done
+    average=$((total / RUNS))
+    echo "$label average: ${average} ms"
+}
+
+# Baseline: no CDS, no AOT, eager beans, schema update on boot
+measure baseline \
+    -e STARTUP_OPTS="" \
+    -e SPRING_MAIN_LAZY_INITIALIZATION=false \
+    -e SPRING_JPA_HIBERNATE_DDL_AUTO=update
+
+baseline_ms=$average
+
+measure fast-startup
+fast_ms=$average
+
+improvement=$(( (baseline_ms - fast_ms) * 100 / baseline_ms ))
+echo "Improvement: ${improvement}% (${baseline_ms} ms -> ${fast_ms} ms)"
+printf '| %s | %s | %s | %s ms | %s ms | %s%% |\n' \
+    "$(date +%Y-%m-%d)" "$(git -C "$ROOT" rev-parse --short HEAD)" "$RUNS" \
+    "$baseline_ms" "$fast_ms" "$improvement" >> "$RESULTS_FILE"
+echo "Recorded in $RESULTS_FILE"
@@ -3,7 +3,10 @@ package com.PrepEdgeAi.PrepEdge.Controller;
 
 import com.PrepEdgeAi.PrepEdge.Entity.InterviewQuestion;
 import com.PrepEdgeAi.PrepEdge.Service.AIInterviewService;
+import com.PrepEdgeAi.PrepEdge.Service.DeadlinePolicy;
+import com.PrepEdgeAi.PrepEdge.Service.GenerationResult;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -12,20 +15,28 @@ import java.util.Map;
 @RestController
 @RequestMapping("/interview-questions")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = InterviewController.PARTIAL_RESPONSE_HEADER)
 public class InterviewController {
 
+    /** Set to "true" when the deadline ran out and some topics were served fallback questions. */
+    public static final String PARTIAL_RESPONSE_HEADER = "X-Partial-Response";
+
     private final AIInterviewService aiService;
+    private final DeadlinePolicy deadlinePolicy;
 
 //    @PostMapping
 //    public List<InterviewQuestion> getQuestions(@RequestParam String topic) {
 //        return aiService.generateQuestions(topic);
 //    }
     @PostMapping("/api/interview/generate")
-    public List<InterviewQuestion> generateQuestions(@RequestBody Map<String, Object> request) {
+    public ResponseEntity<List<InterviewQuestion>> generateQuestions(@RequestBody Map<String, Object> request) {
         String topic = (String) request.get("topic");
         List<String> companies = (List<String>) request.get("companies");
-        return aiService.generateQuestions(topic, companies);
+        Long deadlineMs = request.get("deadlineMs") instanceof Number n ? n.longValue() : null;
+        GenerationResult result = aiService.generateQuestions(topic, companies, deadlinePolicy.start(deadlineMs));
+        return ResponseEntity.ok()
+                .header(PARTIAL_RESPONSE_HEADER, String.valueOf(result.partial()))
+                .body(result.questions());
     }
 
     @GetMapping("/api/interview/topics")
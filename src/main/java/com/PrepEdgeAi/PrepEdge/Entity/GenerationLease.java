@@ -0,0 +1,26 @@
+package com.PrepEdgeAi.PrepEdge.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Cross-instance single-flight lease: the instance holding the row for a cache key
+ * is the only one generating questions for it until the lease expires.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GenerationLease {
+    @Id
+    @Column(name = "cache_key", length = 512)
+    private String cacheKey;
+
+    @Column(nullable = false, length = 128)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -1,9 +1,13 @@
 package com.PrepEdgeAi.PrepEdge.Entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
+
 @Entity
+@Table(indexes = @Index(name = "idx_interview_question_cache_key", columnList = "cache_key, created_at"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,4 +26,13 @@ public class InterviewQuestion {
     private String answer;
 
     private String difficulty; // easy, medium, hard
+
+    // Shared cache key (topic + companies); null for rows not published to the shared cache
+    @JsonIgnore
+    @Column(name = "cache_key", length = 512)
+    private String cacheKey;
+
+    @JsonIgnore
+    @Column(name = "created_at")
+    private Instant createdAt;
 }
@@ -0,0 +1,36 @@
+package com.PrepEdgeAi.PrepEdge.Repository;
+
+import com.PrepEdgeAi.PrepEdge.Entity.GenerationLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface GenerationLeaseRepository extends JpaRepository<GenerationLease, String> {
+
+    /**
+     * Takes the lease if it is free or expired. Expiry uses the database clock so
+     * instances with skewed clocks agree on who holds it.
+     *
+     * @return 1 if the lease was acquired, 0 if another owner still holds it.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO generation_lease (cache_key, owner, expires_at)
+            VALUES (:cacheKey, :owner, now() + (:leaseSeconds * interval '1 second'))
+            ON CONFLICT (cache_key) DO UPDATE
+                SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at
+                WHERE generation_lease.expires_at < now()
+            """, nativeQuery = true)
+    int tryAcquire(@Param("cacheKey") String cacheKey, @Param("owner") String owner,
+                   @Param("leaseSeconds") long leaseSeconds);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM GenerationLease l WHERE l.cacheKey = :cacheKey AND l.owner = :owner")
+    int release(@Param("cacheKey") String cacheKey, @Param("owner") String owner);
+}
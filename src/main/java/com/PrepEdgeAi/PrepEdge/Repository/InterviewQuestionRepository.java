@@ -6,6 +6,11 @@ import com.PrepEdgeAi.PrepEdge.Entity.InterviewQuestion;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+
 @Repository
 public interface InterviewQuestionRepository extends JpaRepository<InterviewQuestion, Long> {
+
+    List<InterviewQuestion> findByCacheKeyAndCreatedAtAfterOrderByIdAsc(String cacheKey, Instant createdAfter);
 }
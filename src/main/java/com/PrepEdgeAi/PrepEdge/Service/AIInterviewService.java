@@ -1,6 +1,7 @@
 package com.PrepEdgeAi.PrepEdge.Service;
 
 import com.PrepEdgeAi.PrepEdge.Entity.InterviewQuestion;
+import com.PrepEdgeAi.PrepEdge.cache.QuestionCache;
 import com.PrepEdgeAi.PrepEdge.Repository.InterviewQuestionRepository;
 import com.PrepEdgeAi.PrepEdge.Keyword.KeywordPacks;
 import com.PrepEdgeAi.PrepEdge.provider.AIProvider;
@@ -8,10 +9,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -19,13 +27,18 @@ public class AIInterviewService {
 
     private final InterviewQuestionRepository repository;
     private final List<AIProvider> aiProviders; // Spring will inject all beans that implement AIProvider
+    private final ExecutorService aiTaskExecutor;
+    private final QuestionCache questionCache;
 
     private static final Set<String> VALID_KEYWORDS = KeywordPacks.getAllKeywords();
+    private static final Duration PROVIDER_TIMEOUT_GRACE = Duration.ofMillis(250);
 
     /**
      * Generate interview questions for one or more topics (comma-separated).
+     * Classification, provider attempts and persistence all run within the given deadline;
+     * topics that cannot finish in time are served fallback questions and the result is marked partial.
      */
-    public List<InterviewQuestion> generateQuestions(String topicString, List<String> companies) {
+    public GenerationResult generateQuestions(String topicString, List<String> companies, RequestDeadline deadline) {
         if (topicString == null || topicString.isBlank()) {
             throw new IllegalArgumentException("Topic cannot be empty.");
         }
@@ -45,45 +58,84 @@ public class AIInterviewService {
             throw new IllegalArgumentException("No valid topics provided.");
         }
 
-        log.info("Processing {} topics: {}", topics.size(), topics);
+        log.info("Processing {} topics: {} (deadline {} ms)", topics.size(), topics, deadline.getBudgetMillis());
 
         // 2. Process each topic
         List<InterviewQuestion> allQuestions = new ArrayList<>();
-        
+        boolean partial = false;
+
         for (String topic : topics) {
             try {
                 final String safeTopic = normalize(topic);
-                
-                // Validate topic
-                if (!isProgrammingTopicAI(safeTopic)) {
+
+                // A set already generated here or by another instance skips classification and generation
+                String cacheKey = QuestionCache.keyFor(safeTopic, companies);
+                Optional<List<InterviewQuestion>> cached = questionCache.peek(cacheKey, deadline);
+                if (cached.isPresent()) {
+                    log.info("Cache hit for topic '{}'.", safeTopic);
+                    allQuestions.addAll(cached.get());
+                    continue;
+                }
+
+                // Out of time: serve fallback for the rest instead of making the client wait
+                if (deadline.isWorkBudgetExhausted()) {
+                    log.warn("Deadline exhausted before topic '{}'. Using fallback.", safeTopic);
+                    allQuestions.addAll(buildTopicAwareFallback(safeTopic));
+                    partial = true;
+                    continue;
+                }
+
+                // Validate topic; running out of time here is a partial result, not a rejection
+                boolean isTechTopic;
+                try {
+                    isTechTopic = isProgrammingTopicAI(safeTopic, deadline);
+                } catch (TimeoutException e) {
+                    log.warn("Deadline reached while classifying topic '{}'. Using fallback.", safeTopic);
+                    allQuestions.addAll(buildTopicAwareFallback(safeTopic));
+                    partial = true;
+                    continue;
+                }
+                if (!isTechTopic) {
                     log.warn("Topic '{}' rejected as non-tech. Skipping.", safeTopic);
                     continue; // Skip invalid topics
                 }
 
                 log.info("Generating questions for topic: {}", safeTopic);
-                boolean generated = false;
-
-                for (AIProvider provider : aiProviders) {
+                List<InterviewQuestion> questions = List.of();
+                boolean timedOut = false;
+                try {
+                    // The shared store saves the generated set when the cache publishes it
+                    questions = questionCache.load(cacheKey, deadline,
+                            () -> generateWithProviders(safeTopic, companies, deadline));
+                } catch (TimeoutException e) {
+                    timedOut = true;
+                } catch (Exception e) {
+                    // Only reached when the cache produced no set (lease or lookup failure), never after generation
+                    log.warn("Question cache failed for topic '{}': {}. Generating without it.", safeTopic, e.getMessage());
                     try {
-                        List<InterviewQuestion> questions = provider.generateQuestions(safeTopic, companies);
-                        if (questions != null && !questions.isEmpty()) {
-                            allQuestions.addAll(questions);
-                            repository.saveAll(questions);
-                            generated = true;
-                            break; // Stop after first successful provider for this topic
+                        questions = generateWithProviders(safeTopic, companies, deadline);
+                        if (!questions.isEmpty()) {
+                            persist(questions, deadline);
                         }
-                    } catch (Exception e) {
-                        log.warn("Provider '{}' failed for topic '{}'. Trying next. Error: {}",
-                                provider.getName(), safeTopic, e.getMessage());
+                    } catch (TimeoutException te) {
+                        timedOut = true;
                     }
                 }
 
-                // Fallback for this specific topic if all providers fail
-                if (!generated) {
+                if (!questions.isEmpty()) {
+                    allQuestions.addAll(questions);
+                    continue;
+                }
+
+                // Fallback for this specific topic if all providers fail or time runs out
+                List<InterviewQuestion> fallback = buildTopicAwareFallback(safeTopic);
+                allQuestions.addAll(fallback);
+                if (timedOut) {
+                    log.warn("Deadline reached for topic '{}'. Using fallback.", safeTopic);
+                    partial = true;
+                } else {
                     log.warn("All AI providers failed for topic '{}'. Using fallback.", safeTopic);
-                    List<InterviewQuestion> fallback = buildTopicAwareFallback(safeTopic);
-                    allQuestions.addAll(fallback);
-                    repository.saveAll(fallback);
+                    persist(fallback, deadline);
                 }
 
             } catch (Exception e) {
@@ -95,14 +147,46 @@ public class AIInterviewService {
             throw new IllegalArgumentException("Could not generate questions for the provided topics.");
         }
 
-        return allQuestions;
+        return new GenerationResult(allQuestions, partial);
+    }
+
+    /**
+     * Tries each provider in order until one returns questions.
+     *
+     * @return The first non-empty result, or an empty list if every provider failed.
+     * @throws TimeoutException if the deadline runs out before a provider succeeds.
+     */
+    private List<InterviewQuestion> generateWithProviders(String topic, List<String> companies,
+                                                          RequestDeadline deadline) throws TimeoutException {
+        for (AIProvider provider : aiProviders) {
+            if (deadline.isWorkBudgetExhausted()) {
+                throw new TimeoutException("Request deadline exhausted");
+            }
+            try {
+                List<InterviewQuestion> questions =
+                        deadline.callWithinWorkBudget(aiTaskExecutor,
+                                () -> provider.generateQuestions(topic, companies, providerTimeout(deadline)));
+                if (questions != null && !questions.isEmpty()) {
+                    return questions; // Stop after first successful provider for this topic
+                }
+            } catch (TimeoutException e) {
+                log.warn("Provider '{}' ran out of time for topic '{}'.", provider.getName(), topic);
+                throw e;
+            } catch (Exception e) {
+                log.warn("Provider '{}' failed for topic '{}'. Trying next. Error: {}",
+                        provider.getName(), topic, e.getMessage());
+            }
+        }
+        return List.of();
     }
 
     /**
      * AI-based classification of topic.
-     * Uses the primary AI provider for classification.
+     * Uses the primary AI provider for classification, bounded by the request deadline.
+     *
+     * @throws TimeoutException if the deadline runs out before the provider answers.
      */
-    private boolean isProgrammingTopicAI(String topic) {
+    private boolean isProgrammingTopicAI(String topic, RequestDeadline deadline) throws TimeoutException {
         if (topic == null || topic.isBlank()) return false;
         if (aiProviders.isEmpty()) {
             log.warn("No AI providers available for classification. Falling back to static keyword check.");
@@ -112,12 +196,15 @@ public class AIInterviewService {
         // Try using the first available provider (which will be Groq)
         AIProvider provider = aiProviders.get(0);
         try {
-            boolean isValid = provider.classifyTopic(topic);
+            boolean isValid = deadline.callWithinWorkBudget(aiTaskExecutor,
+                    () -> provider.classifyTopic(topic, providerTimeout(deadline)));
             if (!isValid) {
                 // Double check with keyword pack for robustness
                 return VALID_KEYWORDS.contains(topic.toLowerCase().trim());
             }
             return true;
+        } catch (TimeoutException e) {
+            throw e;
         } catch (Exception e) {
             log.warn("AI topic classification failed for '{}' using {}: {}. Falling back to static keyword check.",
                     topic, provider.getName(), e.getMessage());
@@ -125,6 +212,31 @@ public class AIInterviewService {
         }
     }
 
+    /**
+     * HTTP timeout for a provider call: the remaining work budget plus a small grace, so the
+     * executor's deadline fires first and the call itself is abandoned shortly after.
+     */
+    private Duration providerTimeout(RequestDeadline deadline) {
+        return Duration.ofMillis(deadline.remainingForWorkMillis()).plus(PROVIDER_TIMEOUT_GRACE);
+    }
+
+    /**
+     * Saves questions, waiting no longer than the time left on the request.
+     * A save that outlives the deadline keeps running in the background; the response is not held for it.
+     */
+    private void persist(List<InterviewQuestion> questions, RequestDeadline deadline) {
+        Future<?> future = aiTaskExecutor.submit(() -> repository.saveAll(questions));
+        try {
+            future.get(deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Persisting {} questions did not finish before the deadline. Continuing in background.", questions.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Failed to persist questions: {}", e.getCause().getMessage());
+        }
+    }
+
     /**
      * Normalize input strings.
      */
@@ -195,6 +307,6 @@ public class AIInterviewService {
      * Helper method to create an InterviewQuestion entity.
      */
     private InterviewQuestion q(String topic, String question, String answer, String difficulty) {
-        return new InterviewQuestion(null, topic, question, answer, difficulty);
+        return InterviewQuestion.builder().topic(topic).question(question).answer(answer).difficulty(difficulty).build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.PrepEdgeAi.PrepEdge.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the deadline for a request from the configured default and the
+ * optional client override, clamped to the configured limits.
+ */
+@Component
+public class DeadlinePolicy {
+
+    private final long defaultMillis;
+    private final long minMillis;
+    private final long maxMillis;
+    private final long persistenceReserveMillis;
+
+    public DeadlinePolicy(@Value("${interview.deadline.default-ms}") long defaultMillis,
+                          @Value("${interview.deadline.min-ms}") long minMillis,
+                          @Value("${interview.deadline.max-ms}") long maxMillis,
+                          @Value("${interview.deadline.persistence-reserve-ms}") long persistenceReserveMillis) {
+        if (minMillis <= 0 || minMillis > maxMillis) {
+            throw new IllegalStateException("interview.deadline.min-ms must be positive and not exceed max-ms");
+        }
+        this.defaultMillis = defaultMillis;
+        this.minMillis = minMillis;
+        this.maxMillis = maxMillis;
+        this.persistenceReserveMillis = persistenceReserveMillis;
+    }
+
+    /**
+     * Starts a deadline for the current request.
+     *
+     * @param requestedMillis The client-supplied budget, or null to use the default.
+     * @return A running RequestDeadline.
+     */
+    public RequestDeadline start(Long requestedMillis) {
+        long budget = requestedMillis == null ? defaultMillis : requestedMillis;
+        budget = Math.max(minMillis, Math.min(maxMillis, budget));
+        return RequestDeadline.startingNow(budget, persistenceReserveMillis);
+    }
+}
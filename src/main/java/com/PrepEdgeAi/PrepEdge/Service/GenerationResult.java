@@ -0,0 +1,12 @@
+package com.PrepEdgeAi.PrepEdge.Service;
+
+import com.PrepEdgeAi.PrepEdge.Entity.InterviewQuestion;
+
+import java.util.List;
+
+/**
+ * Questions produced for a request.
+ * {@code partial} is true when the deadline ran out and some topics were served fallback questions.
+ */
+public record GenerationResult(List<InterviewQuestion> questions, boolean partial) {
+}
@@ -0,0 +1,80 @@
+package com.PrepEdgeAi.PrepEdge.Service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * End-to-end time budget for a single generate request.
+ * A slice of the budget is held back so persistence still gets a chance to run
+ * after classification and provider attempts have used up their share.
+ */
+public final class RequestDeadline {
+
+    private final long budgetMillis;
+    private final long persistenceReserveMillis;
+    private final long expiresAtNanos;
+
+    private RequestDeadline(long budgetMillis, long persistenceReserveMillis) {
+        this.budgetMillis = budgetMillis;
+        this.persistenceReserveMillis = Math.min(persistenceReserveMillis, budgetMillis);
+        this.expiresAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    }
+
+    /**
+     * Starts a new deadline that expires {@code budgetMillis} from now.
+     */
+    public static RequestDeadline startingNow(long budgetMillis, long persistenceReserveMillis) {
+        return new RequestDeadline(budgetMillis, persistenceReserveMillis);
+    }
+
+    /**
+     * Time left before the whole request must return.
+     */
+    public long remainingMillis() {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - System.nanoTime()));
+    }
+
+    /**
+     * Time left for AI calls, i.e. the remaining budget minus the persistence reserve.
+     */
+    public long remainingForWorkMillis() {
+        return Math.max(0, remainingMillis() - persistenceReserveMillis);
+    }
+
+    /**
+     * True once there is no time left for further AI calls.
+     */
+    public boolean isWorkBudgetExhausted() {
+        return remainingForWorkMillis() <= 0;
+    }
+
+    /**
+     * Runs a call on the executor and waits at most for the remaining work budget.
+     * The call is cancelled if it does not finish in time.
+     *
+     * @throws TimeoutException if the work budget is already exhausted or runs out while waiting.
+     */
+    public <T> T callWithinWorkBudget(ExecutorService executor, Callable<T> call) throws Exception {
+        long budget = remainingForWorkMillis();
+        if (budget <= 0) {
+            throw new TimeoutException("Request deadline exhausted");
+        }
+        Future<T> future = executor.submit(call);
+        try {
+            return future.get(budget, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+}
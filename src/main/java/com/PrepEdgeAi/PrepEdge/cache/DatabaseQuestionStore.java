@@ -0,0 +1,56 @@
+package com.PrepEdgeAi.PrepEdge.cache;
+
+import com.PrepEdgeAi.PrepEdge.Entity.InterviewQuestion;
+import com.PrepEdgeAi.PrepEdge.Repository.GenerationLeaseRepository;
+import com.PrepEdgeAi.PrepEdge.Repository.InterviewQuestionRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Shared store backed by the application's Postgres database.
+ * Cached sets are ordinary interview_question rows tagged with a cache key, so publishing a set
+ * is also its persistence; leases live in generation_lease.
+ */
+@RequiredArgsConstructor
+public class DatabaseQuestionStore implements SharedQuestionStore {
+
+    private final InterviewQuestionRepository questionRepository;
+    private final GenerationLeaseRepository leaseRepository;
+
+    @Override
+    public Optional<List<InterviewQuestion>> get(String key, Duration ttl) {
+        List<InterviewQuestion> rows =
+                questionRepository.findByCacheKeyAndCreatedAtAfterOrderByIdAsc(key, Instant.now().minus(ttl));
+        if (rows.isEmpty()) return Optional.empty();
+
+        // Rows of one put share a timestamp; if a key was generated twice, serve only the newest set
+        Instant latest = rows.stream().map(InterviewQuestion::getCreatedAt).max(Comparator.naturalOrder()).get();
+        return Optional.of(rows.stream().filter(q -> latest.equals(q.getCreatedAt())).toList());
+    }
+
+    @Override
+    public void put(String key, List<InterviewQuestion> questions) {
+        // One timestamp per set lets get() tell sets of the same key apart
+        Instant now = Instant.now();
+        for (InterviewQuestion q : questions) {
+            q.setCacheKey(key);
+            q.setCreatedAt(now);
+        }
+        questionRepository.saveAll(questions);
+    }
+
+    @Override
+    public boolean tryAcquireLease(String key, String owner, Duration lease) {
+        return leaseRepository.tryAcquire(key, owner, lease.toSeconds()) > 0;
+    }
+
+    @Override
+    public void releaseLease(String key, String owner) {
+        leaseRepository.release(key, owner);
+    }
+}
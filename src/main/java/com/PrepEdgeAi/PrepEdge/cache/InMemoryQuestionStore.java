@@ -0,0 +1,66 @@
+package com.PrepEdgeAi.PrepEdge.cache;
+
+import com.PrepEdgeAi.PrepEdge.Entity.InterviewQuestion;
+import com.PrepEdgeAi.PrepEdge.Repository.InterviewQuestionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Embedded shared store for tests and single-instance local runs.
+ * Sharing two QuestionCache instances over one store simulates a multi-instance fleet.
+ * When given a repository, published sets are also saved to interview_question, so
+ * generated questions are recorded whichever store is selected.
+ */
+public class InMemoryQuestionStore implements SharedQuestionStore {
+
+    private record Entry(List<InterviewQuestion> questions, Instant createdAt) {}
+
+    private record Lease(String owner, Instant expiresAt) {}
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final InterviewQuestionRepository history;
+
+    public InMemoryQuestionStore() {
+        this(null);
+    }
+
+    public InMemoryQuestionStore(InterviewQuestionRepository history) {
+        this.history = history;
+    }
+
+    @Override
+    public Optional<List<InterviewQuestion>> get(String key, Duration ttl) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.createdAt().isBefore(Instant.now().minus(ttl))) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.questions());
+    }
+
+    @Override
+    public void put(String key, List<InterviewQuestion> questions) {
+        if (history != null) {
+            history.saveAll(questions);
+        }
+        entries.put(key, new Entry(List.copyOf(questions), Instant.now()));
+    }
+
+    @Override
+    public boolean tryAcquireLease(String key, String owner, Duration lease) {
+        Instant now = Instant.now();
+        Lease granted = leases.compute(key, (k, current) ->
+                current == null || current.expiresAt().isBefore(now) ? new Lease(owner, now.plus(lease)) : current);
+        return owner.equals(granted.owner());
+    }
+
+    @Override
+    public void releaseLease(String key, String owner) {
+        leases.computeIfPresent(key, (k, current) -> owner.equals(current.owner()) ? null : current);
+    }
+}
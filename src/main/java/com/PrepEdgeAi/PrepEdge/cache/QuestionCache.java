@@ -0,0 +1,237 @@
+package com.PrepEdgeAi.PrepEdge.cache;
+
+import com.PrepEdgeAi.PrepEdge.Entity.InterviewQuestion;
+import com.PrepEdgeAi.PrepEdge.Service.RequestDeadline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Two-level cache for generated question sets.
+ * L1 is a bounded in-process map; L2 is a {@link SharedQuestionStore} shared by all instances.
+ * Misses are coalesced so only one caller per JVM, and one instance per fleet, generates a given key.
+ * Every L2 call runs on the worker executor and is bounded by the caller's request deadline.
+ */
+@Component
+@Slf4j
+public class QuestionCache {
+
+    private record L1Entry(List<InterviewQuestion> questions, Instant expiresAt) {}
+
+    private final SharedQuestionStore store;
+    private final ExecutorService executor;
+    private final Duration ttl;
+    private final Duration lease;
+    private final long pollIntervalMillis;
+    private final Map<String, L1Entry> l1;
+    private final Map<String, CompletableFuture<List<InterviewQuestion>>> inFlight = new ConcurrentHashMap<>();
+
+    public QuestionCache(SharedQuestionStore store, ExecutorService aiTaskExecutor,
+                         @Value("${interview.cache.ttl-minutes}") long ttlMinutes,
+                         @Value("${interview.deadline.max-ms}") long maxDeadlineMillis,
+                         @Value("${interview.cache.lease-margin-seconds}") long leaseMarginSeconds,
+                         @Value("${interview.cache.poll-interval-ms}") long pollIntervalMillis,
+                         @Value("${interview.cache.l1-max-entries}") int l1MaxEntries) {
+        this.store = store;
+        this.executor = aiTaskExecutor;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        // A generation never outlives the longest allowed request, so a lease this long cannot expire under a live generator
+        this.lease = Duration.ofMillis(maxDeadlineMillis).plusSeconds(leaseMarginSeconds);
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.l1 = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, L1Entry> eldest) {
+                return size() > l1MaxEntries;
+            }
+        });
+    }
+
+    /**
+     * Builds the cache key for a topic and company filter. Case and company order do not matter.
+     * The normalized form is hashed (SHA-256 hex) so the key has a fixed 64-character length
+     * however many companies the client sends.
+     */
+    public static String keyFor(String topic, List<String> companies) {
+        String companyPart = companies == null ? "" : String.join(",", companies.stream()
+                .filter(c -> c != null && !c.isBlank())
+                .map(c -> c.trim().toLowerCase(Locale.ROOT))
+                .sorted()
+                .distinct()
+                .toList());
+        String normalized = topic.trim().toLowerCase(Locale.ROOT) + "|" + companyPart;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Returns a cached set from L1 or L2 without generating anything.
+     * A failing or slow shared store is treated as a miss.
+     */
+    public Optional<List<InterviewQuestion>> peek(String key, RequestDeadline deadline) {
+        L1Entry entry = l1.get(key);
+        if (entry != null) {
+            if (entry.expiresAt().isAfter(Instant.now())) return Optional.of(entry.questions());
+            l1.remove(key);
+        }
+        try {
+            Optional<List<InterviewQuestion>> shared =
+                    deadline.callWithinWorkBudget(executor, () -> store.get(key, ttl));
+            shared.ifPresent(questions -> putL1(key, questions));
+            return shared;
+        } catch (Exception e) {
+            log.warn("Shared question store lookup failed for '{}': {}", key, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Loads a key with single-flight semantics. Callers in this JVM share one in-flight load;
+     * across instances, only the holder of the store lease runs the loader while the others
+     * wait for its result to appear in the shared store. A follower whose leader timed out
+     * retries with its own remaining budget instead of inheriting the failure.
+     *
+     * @param loader Generates the questions; the store saves them on publish. An empty result is returned but not cached.
+     * @throws TimeoutException if the deadline runs out before a set is available.
+     */
+    public List<InterviewQuestion> load(String key, RequestDeadline deadline,
+                                        Callable<List<InterviewQuestion>> loader) throws Exception {
+        while (true) {
+            CompletableFuture<List<InterviewQuestion>> mine = new CompletableFuture<>();
+            CompletableFuture<List<InterviewQuestion>> existing = inFlight.putIfAbsent(key, mine);
+            if (existing != null) {
+                try {
+                    return awaitLocal(existing, deadline);
+                } catch (TimeoutException e) {
+                    // The leader ran out of its own (possibly shorter) deadline; take over if we still have time
+                    if (existing.isCompletedExceptionally() && !deadline.isWorkBudgetExhausted()) {
+                        log.debug("Leader for '{}' timed out. Retrying with the remaining budget.", key);
+                        continue;
+                    }
+                    throw e;
+                }
+            }
+
+            // Leave inFlight before completing so a retrying follower never sees the finished future
+            List<InterviewQuestion> result;
+            try {
+                result = loadAcrossInstances(key, deadline, loader);
+            } catch (Exception e) {
+                inFlight.remove(key, mine);
+                mine.completeExceptionally(e);
+                throw e;
+            }
+            inFlight.remove(key, mine);
+            mine.complete(result);
+            return result;
+        }
+    }
+
+    private List<InterviewQuestion> loadAcrossInstances(String key, RequestDeadline deadline,
+                                                        Callable<List<InterviewQuestion>> loader) throws Exception {
+        String owner = UUID.randomUUID().toString();
+        while (true) {
+            if (deadline.callWithinWorkBudget(executor, () -> store.tryAcquireLease(key, owner, lease))) {
+                try {
+                    // Another instance may have published between our miss and taking the lease
+                    Optional<List<InterviewQuestion>> shared =
+                            deadline.callWithinWorkBudget(executor, () -> store.get(key, ttl));
+                    if (shared.isPresent()) {
+                        putL1(key, shared.get());
+                        return shared.get();
+                    }
+                    List<InterviewQuestion> generated = loader.call();
+                    if (generated == null || generated.isEmpty()) return List.of();
+                    publish(key, generated, deadline);
+                    putL1(key, generated);
+                    return generated;
+                } finally {
+                    releaseLease(key, owner);
+                }
+            }
+
+            // Another instance is generating this key: wait for it to publish
+            if (deadline.remainingForWorkMillis() <= pollIntervalMillis) {
+                throw new TimeoutException("Deadline reached while waiting for another instance to generate '" + key + "'");
+            }
+            log.debug("Key '{}' is being generated elsewhere. Waiting {} ms.", key, pollIntervalMillis);
+            Thread.sleep(pollIntervalMillis);
+
+            Optional<List<InterviewQuestion>> shared =
+                    deadline.callWithinWorkBudget(executor, () -> store.get(key, ttl));
+            if (shared.isPresent()) {
+                putL1(key, shared.get());
+                return shared.get();
+            }
+        }
+    }
+
+    /**
+     * Publishes a generated set to L2, waiting no longer than the time left on the request.
+     * A failed or slow publish is logged; the caller still gets the questions it generated.
+     */
+    private void publish(String key, List<InterviewQuestion> questions, RequestDeadline deadline) {
+        Future<?> future = executor.submit(() -> store.put(key, questions));
+        try {
+            future.get(deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Publishing '{}' to the shared question store did not finish before the deadline.", key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("Publishing '{}' to the shared question store failed: {}", key, e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Releases the lease in the background; the response is not held for it, and an
+     * unreleased lease simply expires.
+     */
+    private void releaseLease(String key, String owner) {
+        executor.submit(() -> {
+            try {
+                store.releaseLease(key, owner);
+            } catch (RuntimeException e) {
+                log.warn("Releasing lease for '{}' failed: {}", key, e.getMessage());
+            }
+        });
+    }
+
+    private List<InterviewQuestion> awaitLocal(CompletableFuture<List<InterviewQuestion>> future,
+                                               RequestDeadline deadline) throws Exception {
+        try {
+            return future.get(deadline.remainingForWorkMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    private void putL1(String key, List<InterviewQuestion> questions) {
+        l1.put(key, new L1Entry(List.copyOf(questions), Instant.now().plus(ttl)));
+    }
+}
@@ -0,0 +1,48 @@
+package com.PrepEdgeAi.PrepEdge.cache;
+
+import com.PrepEdgeAi.PrepEdge.Entity.InterviewQuestion;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Shared (L2) tier of the question cache, visible to every instance.
+ * Also provides the leases used for cross-instance single-flight generation.
+ */
+public interface SharedQuestionStore {
+
+    /**
+     * Looks up the most recent question set stored under a key.
+     *
+     * @param key The cache key.
+     * @param ttl How old an entry may be and still count as a hit.
+     * @return The questions, or empty if there is no fresh entry.
+     */
+    Optional<List<InterviewQuestion>> get(String key, Duration ttl);
+
+    /**
+     * Publishes a generated question set under a key.
+     * This is the only write a generated set receives: implementations must store the data
+     * themselves and must not rely on any caller having saved it elsewhere.
+     *
+     * @param key       The cache key.
+     * @param questions The questions to publish.
+     */
+    void put(String key, List<InterviewQuestion> questions);
+
+    /**
+     * Tries to become the single generator for a key across all instances.
+     *
+     * @param key   The cache key.
+     * @param owner A unique id for the caller.
+     * @param lease How long the lease is held if the owner never releases it.
+     * @return true if the lease was acquired.
+     */
+    boolean tryAcquireLease(String key, String owner, Duration lease);
+
+    /**
+     * Releases a lease held by the given owner. Does nothing if the lease has passed to someone else.
+     */
+    void releaseLease(String key, String owner);
+}
@@ -1,10 +1,15 @@
 package com.PrepEdgeAi.PrepEdge.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * This configuration class defines shared beans for the application.
  */
@@ -17,11 +22,28 @@ public class AppConfig {
      * RestTemplate is required (e.g., in GeminiProvider and GPTProvider).
      * This method SOLVES the "RestTemplate that could not be found" error.
      *
+     * Connect and read timeouts are capped at the maximum request deadline so an
+     * abandoned AI call can never hold a connection longer than any request may wait.
+     *
      * @return A singleton RestTemplate instance.
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(@Value("${interview.deadline.max-ms}") int maxDeadlineMillis) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(maxDeadlineMillis);
+        factory.setReadTimeout(maxDeadlineMillis);
+        return new RestTemplate(factory);
+    }
+
+    /**
+     * Creates the executor that runs AI calls and persistence for a request,
+     * so the request thread can stop waiting when its deadline is reached.
+     *
+     * @return A virtual-thread-per-task ExecutorService.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService aiTaskExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
     }
 
     /**
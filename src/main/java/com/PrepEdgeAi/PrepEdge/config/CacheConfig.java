@@ -0,0 +1,31 @@
+package com.PrepEdgeAi.PrepEdge.config;
+
+import com.PrepEdgeAi.PrepEdge.Repository.GenerationLeaseRepository;
+import com.PrepEdgeAi.PrepEdge.Repository.InterviewQuestionRepository;
+import com.PrepEdgeAi.PrepEdge.cache.DatabaseQuestionStore;
+import com.PrepEdgeAi.PrepEdge.cache.InMemoryQuestionStore;
+import com.PrepEdgeAi.PrepEdge.cache.SharedQuestionStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the shared (L2) question store.
+ * The choice is made when the bean is created rather than with a bean condition,
+ * so it still follows interview.cache.store in AOT-processed builds.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public SharedQuestionStore sharedQuestionStore(@Value("${interview.cache.store}") String store,
+                                                   InterviewQuestionRepository questionRepository,
+                                                   GenerationLeaseRepository leaseRepository) {
+        return switch (store.trim().toLowerCase()) {
+            case "database" -> new DatabaseQuestionStore(questionRepository, leaseRepository);
+            case "memory" -> new InMemoryQuestionStore(questionRepository);
+            default -> throw new IllegalStateException(
+                    "Unknown interview.cache.store '" + store + "'. Expected 'database' or 'memory'.");
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.PrepEdgeAi.PrepEdge.config; // Assuming this is the correct package
 
+import com.PrepEdgeAi.PrepEdge.Controller.InterviewController;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,7 +21,8 @@ public class CorsConfig {
                 registry.addMapping("/**")
                         .allowedOrigins(allowedOrigins) // Use the property here
                         .allowedMethods("GET", "POST", "PUT", "DELETE")
-                        .allowedHeaders("*");
+                        .allowedHeaders("*")
+                        .exposedHeaders(InterviewController.PARTIAL_RESPONSE_HEADER);
             }
         };
     }
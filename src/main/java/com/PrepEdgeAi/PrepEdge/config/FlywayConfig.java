@@ -0,0 +1,29 @@
+package com.PrepEdgeAi.PrepEdge.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Decides at runtime whether Flyway migrates on startup.
+ * spring.flyway.enabled is a bean condition, which Spring AOT fixes at build time, so the
+ * AOT-processed image always registers the migration initializer. Switching inside the
+ * strategy keeps schema.migrate-on-startup effective in that image (used by the CDS training run).
+ */
+@Configuration
+@Slf4j
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(@Value("${schema.migrate-on-startup}") boolean migrateOnStartup) {
+        return flyway -> {
+            if (migrateOnStartup) {
+                flyway.migrate();
+            } else {
+                log.info("schema.migrate-on-startup is false. Skipping Flyway migration.");
+            }
+        };
+    }
+}
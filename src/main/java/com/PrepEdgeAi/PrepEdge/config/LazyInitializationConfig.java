@@ -0,0 +1,34 @@
+package com.PrepEdgeAi.PrepEdge.config;
+
+import com.PrepEdgeAi.PrepEdge.Controller.InterviewController;
+import com.PrepEdgeAi.PrepEdge.Service.AIInterviewService;
+import com.PrepEdgeAi.PrepEdge.Service.DeadlinePolicy;
+import com.PrepEdgeAi.PrepEdge.cache.QuestionCache;
+import com.PrepEdgeAi.PrepEdge.cache.SharedQuestionStore;
+import com.PrepEdgeAi.PrepEdge.provider.AIProvider;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keeps the request path eager when spring.main.lazy-initialization is on (prod profile).
+ * These beans validate configuration or serve the first request, so they must fail the
+ * startup, not a request after readiness is UP; everything else may stay lazy.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    /**
+     * Static so the filter is registered before any other bean definition is post-processed.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter requestPathBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                InterviewController.class,
+                AIInterviewService.class,
+                DeadlinePolicy.class,
+                QuestionCache.class,
+                SharedQuestionStore.class,
+                AIProvider.class);
+    }
+}
@@ -0,0 +1,48 @@
+package com.PrepEdgeAi.PrepEdge.config;
+
+import com.PrepEdgeAi.PrepEdge.provider.AIProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Readiness gate for new instances.
+ * Spring Boot only switches readiness to ACCEPTING_TRAFFIC after all ApplicationRunners
+ * have completed, so warming here keeps /actuator/health/readiness DOWN until each
+ * provider's network path (DNS, TLS) is warmed. The keyword index needs no step here:
+ * it is a static set built when the eager AIInterviewService bean is created.
+ */
+@Component
+@Slf4j
+public class StartupWarmup implements ApplicationRunner {
+
+    private final List<AIProvider> aiProviders;
+    private final boolean enabled;
+    private final Duration timeout;
+
+    public StartupWarmup(List<AIProvider> aiProviders,
+                         @Value("${startup.warmup.enabled}") boolean enabled,
+                         @Value("${startup.warmup.timeout-ms}") long timeoutMillis) {
+        this.aiProviders = aiProviders;
+        this.enabled = enabled;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) return;
+        long start = System.nanoTime();
+
+        for (AIProvider provider : aiProviders) {
+            provider.warmUp(timeout);
+        }
+
+        log.info("Startup warm-up finished in {} ms ({} providers)",
+                (System.nanoTime() - start) / 1_000_000, aiProviders.size());
+    }
+}
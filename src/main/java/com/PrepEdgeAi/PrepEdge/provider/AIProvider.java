@@ -3,6 +3,7 @@ package com.PrepEdgeAi.PrepEdge.provider;
 
 import com.PrepEdgeAi.PrepEdge.Entity.InterviewQuestion;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -19,6 +20,15 @@ public interface AIProvider {
      */
     List<InterviewQuestion> generateQuestions(String topic, List<String> companies) throws Exception;
 
+    /**
+     * Generates questions, giving up on the underlying call once {@code timeout} has passed.
+     * Providers that cannot bound their own calls may ignore the timeout; the caller still
+     * stops waiting at its deadline.
+     */
+    default List<InterviewQuestion> generateQuestions(String topic, List<String> companies, Duration timeout) throws Exception {
+        return generateQuestions(topic, companies);
+    }
+
     /**
      * Classifies whether a topic is related to programming or tech interviews.
      *
@@ -27,6 +37,22 @@ public interface AIProvider {
      */
     boolean classifyTopic(String topic);
 
+    /**
+     * Classifies a topic, giving up on the underlying call once {@code timeout} has passed.
+     */
+    default boolean classifyTopic(String topic, Duration timeout) {
+        return classifyTopic(topic);
+    }
+
+    /**
+     * Warms the provider's network path (DNS, TLS, client classes) ahead of the first request.
+     * Called once at startup before the instance reports ready; failures must not be thrown.
+     *
+     * @param timeout Upper bound for any call made while warming, so readiness is never held long.
+     */
+    default void warmUp(Duration timeout) {
+    }
+
     /**
      * Gets the name of the provider for logging purposes.
      *
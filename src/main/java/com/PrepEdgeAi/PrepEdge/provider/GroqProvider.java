@@ -7,11 +7,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -44,12 +49,21 @@ public class GroqProvider implements AIProvider {
 
     @Override
     public boolean classifyTopic(String topic) {
+        return classifyTopic(topic, restTemplate);
+    }
+
+    @Override
+    public boolean classifyTopic(String topic, Duration timeout) {
+        return classifyTopic(topic, clientWithTimeout(timeout));
+    }
+
+    private boolean classifyTopic(String topic, RestTemplate client) {
         if (topic == null || topic.isBlank()) return false;
         log.info("Classifying topic '{}' using Groq", topic);
         
         try {
             String prompt = "Classify this topic: '" + topic + "'. Is it related to programming or tech interviews? Answer with ONLY 'Yes' or 'No'.";
-            Map<String, Object> response = callGroqWithPrompt(prompt);
+            Map<String, Object> response = callGroqWithPrompt(client, prompt);
             String text = extractTextFromResponse(response).trim().toLowerCase();
             return text.contains("yes");
         } catch (Exception e) {
@@ -58,7 +72,7 @@ public class GroqProvider implements AIProvider {
         }
     }
 
-    private Map<String, Object> callGroqWithPrompt(String prompt) {
+    private Map<String, Object> callGroqWithPrompt(RestTemplate client, String prompt) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setBearerAuth(apiKey);
@@ -79,7 +93,21 @@ public class GroqProvider implements AIProvider {
         );
 
         HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
-        return restTemplate.postForObject(apiUrl, request, Map.class);
+        return client.postForObject(apiUrl, request, Map.class);
+    }
+
+    /**
+     * Builds a client whose connect and read timeouts match the time the caller has left,
+     * so an abandoned call stops instead of running to the shared client's maximum.
+     * Reuses the shared client's message converters.
+     */
+    private RestTemplate clientWithTimeout(Duration timeout) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(timeout);
+        factory.setReadTimeout(timeout);
+        RestTemplate client = new RestTemplate(restTemplate.getMessageConverters());
+        client.setRequestFactory(factory);
+        return client;
     }
 
     @Override
@@ -87,10 +115,35 @@ public class GroqProvider implements AIProvider {
         return "Groq";
     }
 
+    /**
+     * Warms DNS resolution, the TLS stack and HTTP client class loading with a HEAD request
+     * to the Groq endpoint. The socket itself is not kept: HttpURLConnection drops idle
+     * keep-alive connections after a few seconds. Any HTTP status counts as warmed.
+     */
+    @Override
+    public void warmUp(Duration timeout) {
+        try {
+            clientWithTimeout(timeout).execute(apiUrl, HttpMethod.HEAD, null, response -> null);
+        } catch (RestClientResponseException e) {
+            log.debug("Groq warm-up reached endpoint with status {}", e.getStatusCode());
+        } catch (RestClientException e) {
+            log.warn("Groq warm-up could not reach {}: {}", apiUrl, e.getMessage());
+        }
+    }
+
     @Override
     public List<InterviewQuestion> generateQuestions(String topic, List<String> companies) throws Exception {
+        return generateQuestions(topic, companies, restTemplate);
+    }
+
+    @Override
+    public List<InterviewQuestion> generateQuestions(String topic, List<String> companies, Duration timeout) throws Exception {
+        return generateQuestions(topic, companies, clientWithTimeout(timeout));
+    }
+
+    private List<InterviewQuestion> generateQuestions(String topic, List<String> companies, RestTemplate client) throws Exception {
         log.info("Attempting to generate questions for topic '{}' (companies: {}) with Groq model: {}", topic, companies, model);
-        Map<String, Object> response = callGroq(topic, companies);
+        Map<String, Object> response = callGroq(client, topic, companies);
         List<InterviewQuestion> parsed = parseResponse(response, topic);
         if (!parsed.isEmpty()) {
             log.info("Successfully generated {} questions for topic '{}' using Groq model {}", parsed.size(), topic, model);
@@ -111,7 +164,7 @@ public class GroqProvider implements AIProvider {
                 """.formatted(topic, companyContext);
     }
 
-    private Map<String, Object> callGroq(String topic, List<String> companies) {
+    private Map<String, Object> callGroq(RestTemplate client, String topic, List<String> companies) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setBearerAuth(apiKey);
@@ -132,7 +185,7 @@ public class GroqProvider implements AIProvider {
         );
 
         HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
-        return restTemplate.postForObject(apiUrl, request, Map.class);
+        return client.postForObject(apiUrl, request, Map.class);
     }
 
     @SuppressWarnings("unchecked")
@@ -164,7 +217,7 @@ public class GroqProvider implements AIProvider {
             String a = String.valueOf(item.getOrDefault("answer", "")).trim();
             String d = String.valueOf(item.getOrDefault("difficulty", "Medium")).trim();
             if (!q.isEmpty() && !a.isEmpty()) {
-                out.add(new InterviewQuestion(null, topic, q, a, d));
+                out.add(InterviewQuestion.builder().topic(topic).question(q).answer(a).difficulty(d).build());
             }
         }
         return out;
@@ -0,0 +1,10 @@
+-- Baseline schema, matching what Hibernate's ddl-auto=update created before migrations were introduced.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+
+CREATE TABLE IF NOT EXISTS interview_question (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    topic      VARCHAR(255),
+    question   VARCHAR(2000),
+    answer     VARCHAR(4000),
+    difficulty VARCHAR(255)
+);
@@ -0,0 +1,11 @@
+-- Shared question cache: cache-key tagging on interview_question and cross-instance generation leases.
+
+ALTER TABLE interview_question ADD COLUMN IF NOT EXISTS cache_key VARCHAR(512);
+ALTER TABLE interview_question ADD COLUMN IF NOT EXISTS created_at TIMESTAMP(6) WITH TIME ZONE;
+CREATE INDEX IF NOT EXISTS idx_interview_question_cache_key ON interview_question (cache_key, created_at);
+
+CREATE TABLE IF NOT EXISTS generation_lease (
+    cache_key  VARCHAR(512) PRIMARY KEY,
+    owner      VARCHAR(128) NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
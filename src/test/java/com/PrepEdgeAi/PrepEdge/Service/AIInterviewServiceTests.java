@@ -0,0 +1,97 @@
+package com.PrepEdgeAi.PrepEdge.Service;
+
+import com.PrepEdgeAi.PrepEdge.Entity.InterviewQuestion;
+import com.PrepEdgeAi.PrepEdge.Repository.InterviewQuestionRepository;
+import com.PrepEdgeAi.PrepEdge.cache.InMemoryQuestionStore;
+import com.PrepEdgeAi.PrepEdge.cache.QuestionCache;
+import com.PrepEdgeAi.PrepEdge.provider.AIProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class AIInterviewServiceTests {
+
+	private final InterviewQuestionRepository repository = mock(InterviewQuestionRepository.class);
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void returnsGeneratedQuestionsWhenProviderAnswersInTime() {
+		GenerationResult result = service(new StubProvider(0, 0))
+				.generateQuestions("java", List.of(), RequestDeadline.startingNow(5_000, 0));
+
+		assertFalse(result.partial());
+		assertEquals(2, result.questions().size());
+		verify(repository).saveAll(anyList());
+	}
+
+	@Test
+	void slowGenerationServesFallbackAndMarksPartial() {
+		GenerationResult result = service(new StubProvider(0, 5_000))
+				.generateQuestions("java", List.of(), RequestDeadline.startingNow(300, 0));
+
+		assertTrue(result.partial());
+		assertEquals(10, result.questions().size());
+	}
+
+	@Test
+	void slowClassificationServesFallbackAndMarksPartial() {
+		// Not in KeywordPacks, so a keyword fallback would have rejected it
+		GenerationResult result = service(new StubProvider(5_000, 0))
+				.generateQuestions("quarkus reactive", List.of(), RequestDeadline.startingNow(300, 0));
+
+		assertTrue(result.partial());
+		assertEquals(10, result.questions().size());
+	}
+
+	private AIInterviewService service(AIProvider provider) {
+		QuestionCache cache = new QuestionCache(new InMemoryQuestionStore(repository), executor, 60, 5_000, 5, 20, 100);
+		return new AIInterviewService(repository, List.of(provider), executor, cache);
+	}
+
+	/**
+	 * Provider that accepts every topic after the given delays.
+	 */
+	private record StubProvider(long classifyDelayMillis, long generateDelayMillis) implements AIProvider {
+
+		@Override
+		public List<InterviewQuestion> generateQuestions(String topic, List<String> companies) throws Exception {
+			Thread.sleep(generateDelayMillis);
+			List<InterviewQuestion> out = new ArrayList<>();
+			out.add(InterviewQuestion.builder().topic(topic).question("Q1").answer("A1").difficulty("Easy").build());
+			out.add(InterviewQuestion.builder().topic(topic).question("Q2").answer("A2").difficulty("Hard").build());
+			return out;
+		}
+
+		@Override
+		public boolean classifyTopic(String topic) {
+			try {
+				Thread.sleep(classifyDelayMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		public String getName() {
+			return "Stub";
+		}
+	}
+}
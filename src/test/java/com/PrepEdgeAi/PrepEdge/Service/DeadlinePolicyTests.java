@@ -0,0 +1,28 @@
+package com.PrepEdgeAi.PrepEdge.Service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeadlinePolicyTests {
+
+	private final DeadlinePolicy policy = new DeadlinePolicy(15_000, 2_000, 30_000, 500);
+
+	@Test
+	void usesDefaultWhenClientSendsNoDeadline() {
+		assertEquals(15_000, policy.start(null).getBudgetMillis());
+	}
+
+	@Test
+	void clampsClientDeadlineToConfiguredLimits() {
+		assertEquals(2_000, policy.start(10L).getBudgetMillis());
+		assertEquals(30_000, policy.start(600_000L).getBudgetMillis());
+		assertEquals(8_000, policy.start(8_000L).getBudgetMillis());
+	}
+
+	@Test
+	void rejectsMinAboveMax() {
+		assertThrows(IllegalStateException.class, () -> new DeadlinePolicy(5_000, 10_000, 3_000, 500));
+	}
+}
@@ -0,0 +1,63 @@
+package com.PrepEdgeAi.PrepEdge.Service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestDeadlineTests {
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void persistenceReserveIsHeldBackFromWork() {
+		RequestDeadline deadline = RequestDeadline.startingNow(1_000, 300);
+
+		assertTrue(deadline.remainingForWorkMillis() <= 700);
+		assertTrue(deadline.remainingMillis() > 700);
+		assertFalse(deadline.isWorkBudgetExhausted());
+	}
+
+	@Test
+	void reserveLargerThanBudgetLeavesNoWorkTime() {
+		RequestDeadline deadline = RequestDeadline.startingNow(100, 500);
+
+		assertTrue(deadline.isWorkBudgetExhausted());
+	}
+
+	@Test
+	void callWithinWorkBudgetReturnsFastCalls() throws Exception {
+		RequestDeadline deadline = RequestDeadline.startingNow(1_000, 0);
+
+		assertEquals("done", deadline.callWithinWorkBudget(executor, () -> "done"));
+	}
+
+	@Test
+	void callWithinWorkBudgetTimesOutSlowCalls() {
+		RequestDeadline deadline = RequestDeadline.startingNow(100, 0);
+
+		assertThrows(TimeoutException.class, () -> deadline.callWithinWorkBudget(executor, () -> {
+			Thread.sleep(2_000);
+			return "late";
+		}));
+	}
+
+	@Test
+	void callWithinWorkBudgetFailsFastWhenExhausted() {
+		RequestDeadline deadline = RequestDeadline.startingNow(100, 500);
+
+		assertThrows(TimeoutException.class, () -> deadline.callWithinWorkBudget(executor, () -> "never"));
+	}
+}
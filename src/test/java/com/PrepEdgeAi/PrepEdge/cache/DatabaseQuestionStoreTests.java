@@ -0,0 +1,78 @@
+package com.PrepEdgeAi.PrepEdge.cache;
+
+import com.PrepEdgeAi.PrepEdge.Entity.InterviewQuestion;
+import com.PrepEdgeAi.PrepEdge.Repository.GenerationLeaseRepository;
+import com.PrepEdgeAi.PrepEdge.Repository.InterviewQuestionRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DatabaseQuestionStoreTests {
+
+	private final InterviewQuestionRepository questionRepository = mock(InterviewQuestionRepository.class);
+	private final GenerationLeaseRepository leaseRepository = mock(GenerationLeaseRepository.class);
+	private final DatabaseQuestionStore store = new DatabaseQuestionStore(questionRepository, leaseRepository);
+
+	@Test
+	void getReturnsOnlyTheNewestSet() {
+		Instant older = Instant.now().minusSeconds(120);
+		Instant newer = Instant.now().minusSeconds(10);
+		when(questionRepository.findByCacheKeyAndCreatedAtAfterOrderByIdAsc(eq("key"), any())).thenReturn(List.of(
+				question("old 1", older), question("old 2", older),
+				question("new 1", newer), question("new 2", newer)));
+
+		Optional<List<InterviewQuestion>> result = store.get("key", Duration.ofHours(1));
+
+		assertTrue(result.isPresent());
+		assertEquals(List.of("new 1", "new 2"), result.get().stream().map(InterviewQuestion::getQuestion).toList());
+	}
+
+	@Test
+	void getMissesWhenNoFreshRows() {
+		when(questionRepository.findByCacheKeyAndCreatedAtAfterOrderByIdAsc(eq("key"), any())).thenReturn(List.of());
+
+		assertTrue(store.get("key", Duration.ofHours(1)).isEmpty());
+	}
+
+	@Test
+	void putTagsAndSavesTheSetItself() {
+		List<InterviewQuestion> questions = List.of(
+				InterviewQuestion.builder().topic("java").question("q1").answer("a").difficulty("Easy").build(),
+				InterviewQuestion.builder().topic("java").question("q2").answer("a").difficulty("Hard").build());
+
+		store.put("key", questions);
+
+		verify(questionRepository).saveAll(questions);
+		assertEquals("key", questions.get(0).getCacheKey());
+		assertNotNull(questions.get(0).getCreatedAt());
+		assertEquals(questions.get(0).getCreatedAt(), questions.get(1).getCreatedAt());
+	}
+
+	@Test
+	void leaseIsAcquiredOnlyWhenTheUpsertTakesTheRow() {
+		when(leaseRepository.tryAcquire(eq("key"), eq("a"), anyLong())).thenReturn(1);
+		when(leaseRepository.tryAcquire(eq("key"), eq("b"), anyLong())).thenReturn(0);
+
+		assertTrue(store.tryAcquireLease("key", "a", Duration.ofSeconds(45)));
+		assertFalse(store.tryAcquireLease("key", "b", Duration.ofSeconds(45)));
+	}
+
+	private static InterviewQuestion question(String text, Instant createdAt) {
+		return InterviewQuestion.builder().topic("java").question(text).answer("a").difficulty("Easy")
+				.cacheKey("key").createdAt(createdAt).build();
+	}
+}
@@ -0,0 +1,112 @@
+package com.PrepEdgeAi.PrepEdge.cache;
+
+import com.PrepEdgeAi.PrepEdge.Entity.InterviewQuestion;
+import com.PrepEdgeAi.PrepEdge.Service.RequestDeadline;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuestionCacheTests {
+
+	private static final String KEY = QuestionCache.keyFor("Java", List.of("Google", "amazon"));
+
+	// Two caches over one store behave like two instances sharing the database
+	private final InMemoryQuestionStore store = new InMemoryQuestionStore();
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final QuestionCache instanceA = new QuestionCache(store, executor, 60, 5_000, 5, 20, 100);
+	private final QuestionCache instanceB = new QuestionCache(store, executor, 60, 5_000, 5, 20, 100);
+
+	@Test
+	void keyIgnoresCaseAndCompanyOrder() {
+		assertEquals(KEY, QuestionCache.keyFor(" java ", List.of("AMAZON", "google")));
+	}
+
+	@Test
+	void keyHasFixedLengthForManyCompanies() throws Exception {
+		List<String> companies = IntStream.range(0, 200).mapToObj(i -> "company-with-a-long-name-" + i).toList();
+		String key = QuestionCache.keyFor("Java", companies);
+
+		assertEquals(64, key.length());
+		assertEquals(key, QuestionCache.keyFor("java", companies.reversed()));
+
+		instanceA.load(key, deadline(), () -> questions());
+		assertTrue(instanceB.peek(key, deadline()).isPresent());
+	}
+
+	@Test
+	void resultGeneratedOnOneInstanceIsVisibleOnAnother() throws Exception {
+		instanceA.load(KEY, deadline(), () -> questions());
+
+		assertTrue(instanceB.peek(KEY, deadline()).isPresent());
+	}
+
+	@Test
+	void concurrentMissesAcrossInstancesGenerateOnce() throws Exception {
+		AtomicInteger generations = new AtomicInteger();
+		ExecutorService pool = Executors.newFixedThreadPool(6);
+		List<Future<List<InterviewQuestion>>> results = new ArrayList<>();
+
+		for (int i = 0; i < 6; i++) {
+			QuestionCache cache = i % 2 == 0 ? instanceA : instanceB;
+			results.add(pool.submit(() -> cache.load(KEY, deadline(), () -> {
+				generations.incrementAndGet();
+				Thread.sleep(200);
+				return questions();
+			})));
+		}
+		for (Future<List<InterviewQuestion>> result : results) {
+			assertEquals(2, result.get().size());
+		}
+		pool.shutdown();
+
+		assertEquals(1, generations.get());
+	}
+
+	@Test
+	void followerTakesOverWhenLeaderTimesOut() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(1);
+		Future<List<InterviewQuestion>> leader = pool.submit(() ->
+				instanceA.load(KEY, RequestDeadline.startingNow(2_000, 0), () -> {
+					Thread.sleep(300);
+					throw new TimeoutException("leader deadline");
+				}));
+		Thread.sleep(100); // let the leader register as in flight
+
+		List<InterviewQuestion> follower = instanceA.load(KEY, deadline(), () -> questions());
+
+		assertEquals(2, follower.size());
+		ExecutionException failure = assertThrows(ExecutionException.class, leader::get);
+		assertInstanceOf(TimeoutException.class, failure.getCause());
+		pool.shutdown();
+	}
+
+	@Test
+	void emptyResultIsNotCached() throws Exception {
+		instanceA.load(KEY, deadline(), List::of);
+
+		assertTrue(instanceB.peek(KEY, deadline()).isEmpty());
+	}
+
+	private static RequestDeadline deadline() {
+		return RequestDeadline.startingNow(5_000, 0);
+	}
+
+	private static List<InterviewQuestion> questions() {
+		return List.of(
+				InterviewQuestion.builder().topic("java").question("Q1").answer("A1").difficulty("Easy").build(),
+				InterviewQuestion.builder().topic("java").question("Q2").answer("A2").difficulty("Hard").build());
+	}
+}